@@ -0,0 +1,197 @@
+package com.com.collections;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Implementation of {@link SkippableIterator} which performs a k-way merge of several
+ * <strong>already sorted</strong> {@code SkippableIterators} provided at {@linkplain
+ * #MergingSkippableIterator(Comparator, Collection) construction}, producing their elements in
+ * the order defined by a {@link Comparator}.
+ * <p>
+ * At most one <em>head</em> element per source is held in memory at any time; the sources are
+ * otherwise consumed lazily.  Elements which compare as equal are returned in the order of their
+ * sources.
+ *
+ * @param <T> {@inheritDoc}
+ */
+@NotThreadSafe
+final class MergingSkippableIterator<T> implements SkippableIterator<T> {
+
+    /**
+     * The {@link SkippableIterator SkippableIterators} being merged, in the order they were
+     * provided at construction.
+     */
+    private final List<SkippableIterator<? extends T>> sources;
+    /**
+     * Heap of the current <em>head</em> element of every non-exhausted source, ordered by the
+     * {@link Comparator} provided at construction.  This is {@code null} until the first element
+     * is requested, so that no source is read from eagerly.
+     */
+    private PriorityQueue<Head<T>> heads = null;
+    /**
+     * The {@link Comparator} used to order the {@link #heads}.
+     */
+    private final Comparator<Head<T>> headComparator;
+
+    /**
+     * Constructor; generates a new {@link MergingSkippableIterator} which will merge the provided
+     * {@code sources}, each of which must already be sorted according to {@code comparator}.
+     *
+     * @param comparator the {@link Comparator} which the {@code sources} are sorted by
+     * @param sources    the {@code SkippableIterators} to merge
+     *
+     * @throws NullPointerException if the provided {@code comparator}, {@code sources}, or any
+     *                              element of {@code sources} is {@code null}
+     */
+    MergingSkippableIterator(final Comparator<? super T> comparator,
+                             final Collection<? extends SkippableIterator<? extends T>> sources) {
+        Objects.requireNonNull(comparator, "'comparator' must not be 'null'");
+        Objects.requireNonNull(sources, "'sources' must not be 'null'");
+
+        this.sources = new ArrayList<>(sources.size());
+        for (final SkippableIterator<? extends T> source : sources) {
+            this.sources.add(Objects.requireNonNull(source, "'sources' must not contain 'null'"));
+        }
+
+        final Comparator<Head<T>> byValue = (a, b) -> comparator.compare(a.value, b.value);
+        this.headComparator = byValue.thenComparingInt(head -> head.sourceIndex);
+    }
+
+
+    // ===================================
+    // SkippableIterator<T> implementation
+    // ===================================
+
+    @Override
+    public boolean hasNext() {
+        return !this.heads().isEmpty();
+    }
+
+    @Override
+    public T next() {
+        final Head<T> head = this.heads().poll();
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+
+        try {
+            this.advance(head.sourceIndex);
+        } catch (final RuntimeException rEx) {
+            // Restore the head so that it is not lost should iteration be continued.
+            this.heads.add(head);
+            throw rEx;
+        }
+        return head.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Implementation discards the current smallest <em>head</em>.  As the replacement head of that
+     * source must be compared against the others, it is read rather than skipped.
+     */
+    @Override
+    public void skip() {
+        this.next();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Implementation {@link SkippableIterator#close() closes} every source, releasing any
+     * buffered <em>heads</em>.  Should closing any source fail, the remaining sources are still
+     * closed, and the first failure is re-thrown with any others {@linkplain
+     * Throwable#addSuppressed(Throwable) suppressed}.
+     */
+    @Override
+    public void close() {
+        this.heads = new PriorityQueue<>(this.headComparator);
+
+        RuntimeException failure = null;
+        for (final SkippableIterator<? extends T> source : this.sources) {
+            try {
+                source.close();
+            } catch (final RuntimeException rEx) {
+                if (failure == null) {
+                    failure = rEx;
+                } else {
+                    failure.addSuppressed(rEx);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+
+    // ========
+    // Internal
+    // ========
+
+    /**
+     * Returns the {@link #heads}, reading the first element of every source if this has not yet
+     * been done.
+     *
+     * @return the {@code heads} of all non-exhausted sources
+     */
+    private PriorityQueue<Head<T>> heads() {
+        if (this.heads == null) {
+            this.heads = new PriorityQueue<>(Math.max(1, this.sources.size()), this.headComparator);
+            for (int i = 0; i < this.sources.size(); i++) {
+                this.advance(i);
+            }
+        }
+        return this.heads;
+    }
+
+    /**
+     * Reads the next element of the source at the given index into the {@link #heads}, if that
+     * source has any remaining.
+     *
+     * @param sourceIndex the index of the source (within {@link #sources}) to advance
+     */
+    private void advance(final int sourceIndex) {
+        final SkippableIterator<? extends T> source = this.sources.get(sourceIndex);
+        if (source.hasNext()) {
+            this.heads.add(new Head<>(source.next(), sourceIndex));
+        }
+    }
+
+    /**
+     * The buffered <em>head</em> element of a single source.
+     *
+     * @param <T> the type of the element
+     */
+    private static final class Head<T> {
+
+        /**
+         * The element read from the source.
+         */
+        private final T value;
+        /**
+         * The index (within {@link #sources}) of the source the {@link #value} was read from.
+         */
+        private final int sourceIndex;
+
+        /**
+         * Constructor; generates a new {@link Head} for the given {@code value}, read from the
+         * source at {@code sourceIndex}.
+         *
+         * @param value       the element read
+         * @param sourceIndex the index of the source it was read from
+         */
+        private Head(final T value, final int sourceIndex) {
+            this.value = value;
+            this.sourceIndex = sourceIndex;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.com.collections;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Implementation of {@link SkippableIterator} which returns a uniform random sample of (up to) a
+ * fixed number of elements of a delegate {@code SkippableIterator}.
+ * <p>
+ * The sample is taken using reservoir sampling (<em>Algorithm L</em>) when the first element is
+ * requested, consuming the whole of the delegate.  Elements which are never admitted to the
+ * reservoir are {@link SkippableIterator#skip() skipped} rather than read.  The sampled elements
+ * are returned in no particular order.
+ *
+ * @param <T> {@inheritDoc}
+ */
+@NotThreadSafe
+final class ReservoirSamplingSkippableIterator<T> implements SkippableIterator<T> {
+
+    /**
+     * The {@link SkippableIterator} which this {@link ReservoirSamplingSkippableIterator}
+     * samples from.
+     */
+    private final SkippableIterator<T> delegate;
+    /**
+     * The {@link Random} used to sample.
+     */
+    private final Random random;
+    /**
+     * The (maximum) number of elements to sample.
+     */
+    private final int k;
+    /**
+     * The sampled elements; {@code null} until the sample has been taken.  This only grows as
+     * elements are read, so never holds more than the elements actually available.
+     */
+    private List<T> reservoir = null;
+    /**
+     * The index (within the {@link #reservoir}) of the next element to return.
+     */
+    private int index = 0;
+
+    /**
+     * Constructor; generates a new {@link ReservoirSamplingSkippableIterator} which will sample
+     * (up to) {@code k} elements of the provided {@link SkippableIterator iterator}.
+     *
+     * @param iterator the {@code SkippableIterator} to sample from
+     * @param k        the number of elements to sample
+     * @param seed     the seed for the {@link Random} used to sample
+     *
+     * @throws IllegalArgumentException if the provided {@code k} is negative
+     */
+    ReservoirSamplingSkippableIterator(final SkippableIterator<T> iterator,
+                                       final int k,
+                                       final long seed) {
+        this.delegate = Objects.requireNonNull(iterator, "'iterator' must not be 'null'");
+        if (k < 0) {
+            throw new IllegalArgumentException("'k' must be non-negative, but was " + k);
+        }
+        this.k = k;
+        this.random = new Random(seed);
+    }
+
+
+    // ===================================
+    // SkippableIterator<T> implementation
+    // ===================================
+
+    @Override
+    public boolean hasNext() {
+        this.doSampling();
+        return this.index < this.reservoir.size();
+    }
+
+    @Override
+    public T next() {
+        if (this.hasNext()) {
+            return this.reservoir.set(this.index++, null);
+        }
+
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public void skip() {
+        this.next();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Implementation {@link SkippableIterator#close() closes} the {@link #delegate}, and
+     * discards any sampled elements.
+     */
+    @Override
+    public void close() {
+        this.reservoir = Collections.emptyList();
+        this.index = 0;
+        this.delegate.close();
+    }
+
+
+    // ========
+    // Internal
+    // ========
+
+    /**
+     * Fills the {@link #reservoir} from the {@link #delegate}, if this has not already been done.
+     * <p>
+     * The {@code reservoir} is only assigned once sampling has completed; should the {@code
+     * delegate} fail part way through, a subsequent invocation will attempt sampling again rather
+     * than returning a partial sample.
+     */
+    private void doSampling() {
+        if (this.reservoir == null) {
+            this.reservoir = this.takeSample();
+        }
+    }
+
+    /**
+     * Takes a sample of (up to) {@link #k} elements from the {@link #delegate}.
+     *
+     * @return the sampled elements
+     */
+    private List<T> takeSample() {
+        final int k = this.k;
+        final List<T> sampled = new ArrayList<>();
+        while (sampled.size() < k && this.delegate.hasNext()) {
+            sampled.add(this.delegate.next());
+        }
+        if (sampled.size() < k || k == 0) {
+            return sampled;
+        }
+
+        double w = Math.exp(Math.log(this.nextOpenDouble()) / k);
+        while (true) {
+            long gap = (long) Math.floor(Math.log(this.nextOpenDouble()) / Math.log1p(-w));
+            while (gap > 0 && this.delegate.hasNext()) {
+                this.delegate.skip();
+                gap--;
+            }
+            if (!this.delegate.hasNext()) {
+                return sampled;
+            }
+            sampled.set(this.random.nextInt(k), this.delegate.next());
+            w *= Math.exp(Math.log(this.nextOpenDouble()) / k);
+        }
+    }
+
+    /**
+     * Returns a uniformly distributed random number within {@code (0, 1]}, so that its logarithm
+     * is always finite.
+     *
+     * @return the random number
+     */
+    private double nextOpenDouble() {
+        return 1.0d - this.random.nextDouble();
+    }
+}
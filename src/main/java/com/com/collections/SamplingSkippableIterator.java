@@ -0,0 +1,172 @@
+package com.com.collections;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+/**
+ * Implementation of {@link SkippableIterator} which returns only a sample of the elements of a
+ * delegate {@code SkippableIterator}.  Elements which are not sampled are {@link
+ * SkippableIterator#skip() skipped} rather than read, so only the sampled elements are decoded.
+ * <p>
+ * Which elements are sampled is determined by the <em>gaps</em> between them; the number of
+ * elements to skip before each sampled element.
+ *
+ * @param <T> {@inheritDoc}
+ */
+@NotThreadSafe
+final class SamplingSkippableIterator<T> implements SkippableIterator<T> {
+
+    /**
+     * The {@link SkippableIterator} which this {@link SamplingSkippableIterator} samples from.
+     */
+    private final SkippableIterator<T> delegate;
+    /**
+     * Provides the number of elements to skip before each sampled element.
+     */
+    private final LongSupplier gaps;
+    /**
+     * The remaining number of elements to skip before the next sampled element, or {@code -1} if
+     * the next gap has yet to be determined.
+     */
+    private long toSkip;
+
+    /**
+     * Constructor; generates a new {@link SamplingSkippableIterator} sampling from the provided
+     * {@link SkippableIterator iterator}.
+     *
+     * @param iterator the {@code SkippableIterator} to sample from
+     * @param firstGap the number of elements to skip before the first sampled element
+     * @param gaps     provides the number of elements to skip before each subsequent sampled
+     *                 element
+     */
+    private SamplingSkippableIterator(final SkippableIterator<T> iterator,
+                                      final long firstGap,
+                                      final LongSupplier gaps) {
+        this.delegate = Objects.requireNonNull(iterator, "'iterator' must not be 'null'");
+        this.toSkip = firstGap;
+        this.gaps = gaps;
+    }
+
+    /**
+     * Generates a new {@link SamplingSkippableIterator} which samples the first, and then every
+     * {@code n}th, element of the provided {@link SkippableIterator iterator}.
+     *
+     * @param iterator the {@code SkippableIterator} to sample from
+     * @param n        the interval between sampled elements
+     * @param <T>      the element-type of the {@code iterator}
+     *
+     * @return the sampling {@code SkippableIterator}
+     *
+     * @throws IllegalArgumentException if the provided {@code n} is not positive
+     */
+    static <T> SamplingSkippableIterator<T> every(final SkippableIterator<T> iterator,
+                                                  final long n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("'n' must be positive, but was " + n);
+        }
+        final long gap = n - 1;
+        return new SamplingSkippableIterator<>(iterator, 0, () -> gap);
+    }
+
+    /**
+     * Generates a new {@link SamplingSkippableIterator} which samples each element of the
+     * provided {@link SkippableIterator iterator} independently with probability {@code p}.
+     * <p>
+     * The gaps between sampled elements are drawn from the geometric distribution, so only one
+     * random number is required per sampled element.
+     *
+     * @param iterator the {@code SkippableIterator} to sample from
+     * @param p        the probability of each element being sampled
+     * @param seed     the seed for the {@link Random} used to sample
+     * @param <T>      the element-type of the {@code iterator}
+     *
+     * @return the sampling {@code SkippableIterator}
+     *
+     * @throws IllegalArgumentException if the provided {@code p} is not within {@code [0, 1]}
+     */
+    static <T> SamplingSkippableIterator<T> bernoulli(final SkippableIterator<T> iterator,
+                                                      final double p,
+                                                      final long seed) {
+        if (!(p >= 0.0d && p <= 1.0d)) {
+            throw new IllegalArgumentException("'p' must be within [0, 1], but was " + p);
+        }
+
+        final LongSupplier gaps;
+        if (p == 0.0d) {
+            gaps = () -> Long.MAX_VALUE;
+        } else if (p == 1.0d) {
+            gaps = () -> 0L;
+        } else {
+            final Random random = new Random(seed);
+            final double logOfFailure = Math.log1p(-p);
+            // 1 - nextDouble() is within (0, 1], so the logarithm is finite and non-positive.
+            gaps = () -> (long) Math.floor(Math.log(1.0d - random.nextDouble()) / logOfFailure);
+        }
+        return new SamplingSkippableIterator<>(iterator, -1, gaps);
+    }
+
+
+    // ===================================
+    // SkippableIterator<T> implementation
+    // ===================================
+
+    @Override
+    public boolean hasNext() {
+        this.doSkipping();
+        return this.delegate.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (this.hasNext()) {
+            this.toSkip = -1;
+            return this.delegate.next();
+        }
+
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public void skip() {
+        if (this.hasNext()) {
+            this.toSkip = -1;
+            this.delegate.skip();
+            return;
+        }
+
+        throw new NoSuchElementException();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Implementation {@link SkippableIterator#close() closes} the {@link #delegate} directly.
+     */
+    @Override
+    public void close() {
+        this.toSkip = 0;
+        this.delegate.close();
+    }
+
+
+    // ========
+    // Internal
+    // ========
+
+    /**
+     * {@link SkippableIterator#skip() Skips} the elements of the {@link #delegate} before the
+     * next sampled element, determining that gap first if necessary.
+     */
+    private void doSkipping() {
+        if (this.toSkip < 0) {
+            this.toSkip = this.gaps.getAsLong();
+        }
+        while (this.toSkip > 0 && this.delegate.hasNext()) {
+            this.delegate.skip();
+            this.toSkip--;
+        }
+    }
+}
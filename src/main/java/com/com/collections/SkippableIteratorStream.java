@@ -1,6 +1,7 @@
 package com.com.collections;
 
 import javax.annotation.concurrent.NotThreadSafe;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Objects;
@@ -61,6 +62,30 @@ public final class SkippableIteratorStream<T> implements Stream<T> {
         this.stream.onClose(this::closeIterator);
     }
 
+    /**
+     * Generates a new {@link SkippableIteratorStream} which lazily merges the provided
+     * <strong>already sorted</strong> {@link SkippableIterator sources} into a single stream,
+     * ordered by the provided {@link Comparator}.
+     * <p>
+     * Only one element per source is held in memory at any time.  {@linkplain #close() Closing}
+     * the resulting {@code SkippableIteratorStream} will {@link SkippableIterator#close() close}
+     * all of the {@code sources}.
+     *
+     * @param comparator the {@code Comparator} which each of the {@code sources} is sorted by
+     * @param sources    the {@code SkippableIterators} to merge
+     * @param <T>        the element-type of the resulting {@code SkippableIteratorStream}
+     *
+     * @return a {@code SkippableIteratorStream} over the merged elements of the {@code sources}
+     *
+     * @throws NullPointerException if the provided {@code comparator}, {@code sources}, or any
+     *                              element of {@code sources} is {@code null}
+     */
+    public static <T> SkippableIteratorStream<T> merge(
+            final Comparator<? super T> comparator,
+            final Collection<? extends SkippableIterator<? extends T>> sources) {
+        return new SkippableIteratorStream<>(new MergingSkippableIterator<>(comparator, sources));
+    }
+
 
     // =====================
     // Stream implementation
@@ -78,6 +103,60 @@ public final class SkippableIteratorStream<T> implements Stream<T> {
     }
 
 
+    // ========
+    // Sampling
+    // ========
+
+    /**
+     * Returns a {@link SkippableIteratorStream} of the first, and then every {@code n}th, element
+     * of this {@code SkippableIteratorStream}.  Elements which are not sampled are {@link
+     * SkippableIterator#skip() skipped}.
+     *
+     * @param n the interval between sampled elements
+     *
+     * @return a {@code SkippableIteratorStream} of the sampled elements
+     *
+     * @throws IllegalArgumentException if the provided {@code n} is not positive
+     */
+    public SkippableIteratorStream<T> sampleEvery(final long n) {
+        return new SkippableIteratorStream<>(SamplingSkippableIterator.every(this.iterator, n));
+    }
+
+    /**
+     * Returns a {@link SkippableIteratorStream} in which each element of this {@code
+     * SkippableIteratorStream} is independently sampled with probability {@code p}.  Elements
+     * which are not sampled are {@link SkippableIterator#skip() skipped}.
+     *
+     * @param p    the probability of each element being sampled
+     * @param seed the seed for the random sampling
+     *
+     * @return a {@code SkippableIteratorStream} of the sampled elements
+     *
+     * @throws IllegalArgumentException if the provided {@code p} is not within {@code [0, 1]}
+     */
+    public SkippableIteratorStream<T> sampleBernoulli(final double p, final long seed) {
+        return new SkippableIteratorStream<>(SamplingSkippableIterator.bernoulli(this.iterator, p, seed));
+    }
+
+    /**
+     * Returns a {@link SkippableIteratorStream} of a uniform random sample of {@code k} elements
+     * of this {@code SkippableIteratorStream} (or all of them, if there are fewer).  The whole of
+     * this {@code SkippableIteratorStream} is consumed when the first element is requested, but
+     * only elements admitted to the sample are read; the remainder are {@link
+     * SkippableIterator#skip() skipped}.  The sampled elements are in no particular order.
+     *
+     * @param k    the number of elements to sample
+     * @param seed the seed for the random sampling
+     *
+     * @return a {@code SkippableIteratorStream} of the sampled elements
+     *
+     * @throws IllegalArgumentException if the provided {@code k} is negative
+     */
+    public SkippableIteratorStream<T> sample(final int k, final long seed) {
+        return new SkippableIteratorStream<>(new ReservoirSamplingSkippableIterator<>(this.iterator, k, seed));
+    }
+
+
     // =================
     // Stream delegation
     // =================
@@ -264,13 +343,11 @@ public final class SkippableIteratorStream<T> implements Stream<T> {
     // ========
 
     /**
-     * {@link SkippableIterator#skip() Skips} all remaining elements of the {@link #iterator
-     * SkippableIterator} provided at {@linkplain #SkippableIteratorStream(SkippableIterator)
-     * construction}.
+     * {@link SkippableIterator#close() Closes} the {@link #iterator SkippableIterator} provided
+     * at {@linkplain #SkippableIteratorStream(SkippableIterator) construction}; by default this
+     * {@link SkippableIterator#skip() skips} all of its remaining elements.
      */
     private void closeIterator() {
-        while (this.iterator.hasNext()) {
-            this.iterator.skip();
-        }
+        this.iterator.close();
     }
 }
@@ -77,6 +77,18 @@ final class SkippingDelegatingSkippableIterator<T> implements SkippableIterator<
         this.delegate.forEachRemaining(action);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Implementation {@link SkippableIterator#close() closes} the {@link #delegate} directly;
+     * any elements still to be skipped are irrelevant once closed.
+     */
+    @Override
+    public void close() {
+        this.toSkip = 0;
+        this.delegate.close();
+    }
+
 
     // ========
     // Internal
@@ -1,6 +1,7 @@
 package com.com.gson.stream;
 
 import com.com.collections.SkippableIterator;
+import com.com.collections.SkippableIteratorStream;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 
@@ -18,6 +19,11 @@ import java.util.NoSuchElementException;
  * <p>
  * An instance of this class is single use; it is up to the user to determine what to do with the
  * resulting elements.
+ * <p>
+ * Where the elements are themselves lazily loaded {@link java.util.stream.Stream Streams} (that
+ * is, the {@code componentAdapter} is a {@link StreamTypeAdapter}) they share the {@code
+ * JsonReader}; any unconsumed remainder of such an element is therefore skipped as soon as this
+ * {@code Iterator} advances, and that element will yield nothing further.
  */
 @NotThreadSafe
 final class JsonReaderSkippableIterator<T> implements SkippableIterator<T> {
@@ -30,12 +36,29 @@ final class JsonReaderSkippableIterator<T> implements SkippableIterator<T> {
      * The {@link JsonReader} containing the elements this {@link Iterator} should iterate over.
      */
     private final JsonReader reader;
+    /**
+     * Whether this {@link JsonReaderSkippableIterator} owns the {@link #reader}; if so then it is
+     * {@link JsonReader#close() closed} on {@link #close()}, rather than having its remaining
+     * elements skipped.
+     */
+    private final boolean ownsReader;
     /**
      * Tracks what the last invocation of {@link #hasNext()} returned.  If this has not been invoked
      * since construction, or since the next element has been <strong>consumed</strong> (either by
      * an invocation of {@link #next()} or {@link #skip()}) then this will be {@code null}.
      */
     private @Nullable Boolean lastHasNextResult = null;
+    /**
+     * The {@link StreamTypeAdapter} for the elements, if the {@link #componentAdapter} is one;
+     * otherwise {@code null}.
+     */
+    private final @Nullable StreamTypeAdapter<?> nestedAdapter;
+    /**
+     * The iterator backing the last nested {@link java.util.stream.Stream Stream} returned by
+     * {@link #next()}, which must be finished before the {@link #reader} is advanced; {@code null}
+     * if there is none.
+     */
+    private @Nullable JsonReaderSkippableIterator<?> pendingNested = null;
 
     /**
      * Constructor; generates a new {@link JsonReaderSkippableIterator} using the provided {@link
@@ -53,8 +76,32 @@ final class JsonReaderSkippableIterator<T> implements SkippableIterator<T> {
      */
     JsonReaderSkippableIterator(final TypeAdapter<T> componentAdapter,
                                 final JsonReader reader) {
+        this(componentAdapter, reader, false);
+    }
+
+    /**
+     * Constructor; generates a new {@link JsonReaderSkippableIterator} using the provided {@link
+     * JsonReader} (and their conversion using the {@link #componentAdapter}) as the source of
+     * elements.
+     *
+     * @param componentAdapter the {@link TypeAdapter} for individual components of the {@link
+     *                         Iterator}
+     * @param reader           the reader to use as the source of elements.  It is assumed that
+     *                         {@link JsonReader#beginArray()} has been called on this {@code
+     *                         reader} <strong>prior</strong> to being given
+     * @param ownsReader       whether the {@code reader} should be {@link JsonReader#close()
+     *                         closed} when this {@code JsonReaderSkippableIterator} is {@link
+     *                         #close() closed}
+     */
+    JsonReaderSkippableIterator(final TypeAdapter<T> componentAdapter,
+                                final JsonReader reader,
+                                final boolean ownsReader) {
         this.componentAdapter = componentAdapter;
         this.reader = reader;
+        this.ownsReader = ownsReader;
+        this.nestedAdapter = componentAdapter instanceof StreamTypeAdapter
+                             ? (StreamTypeAdapter<?>) componentAdapter
+                             : null;
         // beginArray is called by the StreamTypeAdapter to ensure that null values can be
         // appropriately mapped to a null Stream.
     }
@@ -70,6 +117,7 @@ final class JsonReaderSkippableIterator<T> implements SkippableIterator<T> {
             return this.lastHasNextResult;
         }
         try {
+            this.finishPendingNested();
             final boolean result = this.reader.hasNext();
             if (!result) {
                 // When there are no results left, call 'endArray' so that the reader can neatly be
@@ -87,6 +135,9 @@ final class JsonReaderSkippableIterator<T> implements SkippableIterator<T> {
         if (this.hasNext()) {
             try {
                 this.lastHasNextResult = null;
+                if (this.nestedAdapter != null) {
+                    return this.readNested();
+                }
                 return this.componentAdapter.read(this.reader);
             } catch (final IOException ioEx) {
                 throw new RuntimeException(ioEx);
@@ -106,7 +157,6 @@ final class JsonReaderSkippableIterator<T> implements SkippableIterator<T> {
         if (this.hasNext()) {
             try {
                 this.lastHasNextResult = null;
-                System.out.println("Skipping");
                 this.reader.skipValue();
                 return;
             } catch (final IOException ioEx) {
@@ -116,4 +166,62 @@ final class JsonReaderSkippableIterator<T> implements SkippableIterator<T> {
 
         throw new NoSuchElementException();
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Implementation will {@link JsonReader#close() close} the {@link #reader} if it is
+     * {@link #ownsReader owned} by this {@link JsonReaderSkippableIterator}; otherwise the
+     * remaining elements are {@link #skip() skipped}, leaving the {@code reader} positioned after
+     * the array.
+     */
+    @Override
+    public void close() {
+        if (!this.ownsReader) {
+            SkippableIterator.super.close();
+            return;
+        }
+
+        try {
+            this.lastHasNextResult = false;
+            this.pendingNested = null;
+            this.reader.close();
+        } catch (final IOException ioEx) {
+            throw new RuntimeException(ioEx);
+        }
+    }
+
+
+    // ========
+    // Internal
+    // ========
+
+    /**
+     * Reads the next element, a nested {@link java.util.stream.Stream Stream}, using the {@link
+     * #nestedAdapter}, and records its iterator as {@link #pendingNested}.
+     *
+     * @return the nested {@code Stream}, or {@code null} if the json element is {@code null}
+     *
+     * @throws IOException if the {@link #reader} could not be read from
+     */
+    // The nestedAdapter is the componentAdapter, so produces elements of type T.
+    @SuppressWarnings("unchecked")
+    private @Nullable T readNested() throws IOException {
+        final JsonReaderSkippableIterator<?> nested = this.nestedAdapter.readIterator(this.reader);
+        this.pendingNested = nested;
+        return nested == null ? null : (T) new SkippableIteratorStream<>(nested);
+    }
+
+    /**
+     * {@link SkippableIterator#close() Closes} the {@link #pendingNested} iterator, if any, which
+     * skips its remaining elements so that the {@link #reader} is positioned after its array.
+     * Nested {@code Streams} at any further depth are finished in turn by that iterator.
+     */
+    private void finishPendingNested() {
+        final JsonReaderSkippableIterator<?> nested = this.pendingNested;
+        if (nested != null) {
+            this.pendingNested = null;
+            nested.close();
+        }
+    }
 }
@@ -0,0 +1,431 @@
+package com.com.gson.stream;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes the elements of {@link Stream Streams} to many json array outputs (<em>partitions</em>)
+ * in a single pass, routing each element by a key.
+ * <p>
+ * At most a fixed number of partitions have their output open at any time; the least recently
+ * used one is closed when another must be opened, and is later reopened in
+ * <strong>append</strong> mode should it receive further elements.  Each partition is left as a
+ * complete json array once this {@code PartitioningStreamWriter} is {@link #close() closed}.
+ * Beyond the open outputs, only the set of keys seen is retained.
+ * <p>
+ * Should writing any element fail, the partition it was being written to may hold a partial
+ * element; no further elements may then be written, and {@link #close()} closes all outputs but
+ * throws, as they cannot be completed as valid json.  Once closed, no further elements may be
+ * written.
+ * <p>
+ * Each element is written by its own {@link JsonWriter}, with the array delimiters written
+ * directly to the underlying {@link Writer}.  These {@code JsonWriters} use the {@linkplain
+ * JsonWriter#setSerializeNulls(boolean) serializeNulls} and {@linkplain
+ * JsonWriter#setHtmlSafe(boolean) htmlSafe} settings provided at construction, but are never
+ * {@linkplain JsonWriter#setLenient(boolean) lenient}; so, as with {@link
+ * StreamTypeAdapter#write(JsonWriter, Stream)}, non-finite numbers are rejected.
+ *
+ * @param <T> the <strong>element-type</strong> of the {@code Streams} being written
+ * @param <K> the type of the keys identifying partitions
+ */
+@NotThreadSafe
+public final class PartitioningStreamWriter<T, K> implements Closeable {
+
+    /**
+     * {@link TypeAdapter} for the <strong>elements</strong> being written.
+     */
+    private final TypeAdapter<T> componentAdapter;
+    /**
+     * Determines the key of the partition each element is written to.
+     */
+    private final Function<? super T, ? extends K> keyFunction;
+    /**
+     * Provides the {@link Writer} for a partition whenever it is to be (re)opened.
+     */
+    private final OutputFactory<? super K> outputs;
+    /**
+     * The maximum number of partitions which may have an {@link #open} output at once.
+     */
+    private final int maxOpenOutputs;
+    /**
+     * Whether the {@link JsonWriter JsonWriters} for elements should {@linkplain
+     * JsonWriter#setSerializeNulls(boolean) serialize nulls}.
+     */
+    private final boolean serializeNulls;
+    /**
+     * Whether the {@link JsonWriter JsonWriters} for elements should be {@linkplain
+     * JsonWriter#setHtmlSafe(boolean) html safe}.
+     */
+    private final boolean htmlSafe;
+    /**
+     * The currently open outputs, in least-recently-used-first order.
+     */
+    private final LinkedHashMap<K, Output> open;
+    /**
+     * The keys of every partition which has had at least one element written.
+     */
+    private final Set<K> started = new HashSet<>();
+    /**
+     * The failure of a previous write, which may have left a partition incomplete; {@code null}
+     * if there has been none.
+     */
+    private Exception failure = null;
+    /**
+     * Whether this {@link PartitioningStreamWriter} has been {@link #close() closed}.
+     */
+    private boolean closed = false;
+
+    /**
+     * Constructor; generates a new {@link PartitioningStreamWriter} using the provided {@link Gson
+     * gson} for the {@link TypeAdapter} of, and the {@linkplain Gson#serializeNulls()
+     * serializeNulls} and {@linkplain Gson#htmlSafe() htmlSafe} settings used when writing, the
+     * elements.
+     *
+     * @param gson           the underlying {@code Gson} instance to use
+     * @param token          the {@link TypeToken} of the elements to write
+     * @param keyFunction    determines the (non-{@code null}) key of the partition to write each
+     *                       element to
+     * @param outputs        the {@link OutputFactory} to open partitions' outputs with
+     * @param maxOpenOutputs the maximum number of outputs to keep open at once
+     *
+     * @throws NullPointerException     if the provided {@code gson}, {@code token}, {@code
+     *                                  keyFunction}, or {@code outputs} is {@code null}
+     * @throws IllegalArgumentException if the provided {@code maxOpenOutputs} is not positive
+     */
+    public PartitioningStreamWriter(final Gson gson,
+                                    final TypeToken<T> token,
+                                    final Function<? super T, ? extends K> keyFunction,
+                                    final OutputFactory<? super K> outputs,
+                                    final int maxOpenOutputs) {
+        this(Objects.requireNonNull(gson, "'gson' must not be 'null'")
+                    .getAdapter(Objects.requireNonNull(token, "'token' must not be 'null'")),
+             keyFunction, outputs, maxOpenOutputs, gson.serializeNulls(), gson.htmlSafe());
+    }
+
+    /**
+     * Constructor; generates a new {@link PartitioningStreamWriter} which writes elements using
+     * the provided {@link TypeAdapter} to the partitions identified by {@code keyFunction}.
+     *
+     * @param componentAdapter the {@code TypeAdapter} of the elements to write
+     * @param keyFunction      determines the (non-{@code null}) key of the partition to write
+     *                         each element to
+     * @param outputs          the {@link OutputFactory} to open partitions' outputs with
+     * @param maxOpenOutputs   the maximum number of outputs to keep open at once
+     * @param serializeNulls   whether {@code null} members of elements should be written
+     * @param htmlSafe         whether html characters in elements should be escaped
+     *
+     * @throws NullPointerException     if the provided {@code componentAdapter}, {@code
+     *                                  keyFunction}, or {@code outputs} is {@code null}
+     * @throws IllegalArgumentException if the provided {@code maxOpenOutputs} is not positive
+     */
+    public PartitioningStreamWriter(final TypeAdapter<T> componentAdapter,
+                                    final Function<? super T, ? extends K> keyFunction,
+                                    final OutputFactory<? super K> outputs,
+                                    final int maxOpenOutputs,
+                                    final boolean serializeNulls,
+                                    final boolean htmlSafe) {
+        this.componentAdapter = Objects.requireNonNull(componentAdapter,
+                                                       "'componentAdapter' must not be 'null'");
+        this.keyFunction = Objects.requireNonNull(keyFunction, "'keyFunction' must not be 'null'");
+        this.outputs = Objects.requireNonNull(outputs, "'outputs' must not be 'null'");
+        if (maxOpenOutputs <= 0) {
+            throw new IllegalArgumentException(
+                    "'maxOpenOutputs' must be positive, but was " + maxOpenOutputs);
+        }
+        this.maxOpenOutputs = maxOpenOutputs;
+        this.serializeNulls = serializeNulls;
+        this.htmlSafe = htmlSafe;
+        this.open = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+
+    // ======
+    // Public
+    // ======
+
+    /**
+     * Writes every element of the provided {@link Stream} to its partition.  The {@code value}
+     * is consumed, but not {@link Stream#close() closed}.
+     *
+     * @param value the {@code Stream} of elements to write
+     *
+     * @throws IOException              if writing to any partition fails
+     * @throws NullPointerException     if the provided {@code value} is {@code null}, or the key
+     *                                  of any element is {@code null}
+     * @throws IllegalArgumentException if any element contains a non-finite number
+     * @throws IllegalStateException    if this {@code PartitioningStreamWriter} is closed, or a
+     *                                  previous write failed
+     */
+    public void writeAll(final Stream<? extends T> value) throws IOException {
+        Objects.requireNonNull(value, "'value' must not be 'null'");
+        this.ensureWritable();
+
+        final Iterator<? extends T> elements = value.iterator();
+        while (elements.hasNext()) {
+            this.write(elements.next());
+        }
+    }
+
+    /**
+     * Writes the provided element to its partition.
+     * <p>
+     * Should this fail once the partition's output has been opened, that output may hold a
+     * partial element; this {@code PartitioningStreamWriter} then refuses further writes, and
+     * {@link #close()} will throw.
+     *
+     * @param element the element to write
+     *
+     * @throws IOException              if writing to the partition fails
+     * @throws NullPointerException     if the key of the {@code element} is {@code null}
+     * @throws IllegalArgumentException if the {@code element} contains a non-finite number
+     * @throws IllegalStateException    if this {@code PartitioningStreamWriter} is closed, or a
+     *                                  previous write failed
+     */
+    public void write(final T element) throws IOException {
+        this.ensureWritable();
+        final K key = Objects.requireNonNull(this.keyFunction.apply(element),
+                                             "'keyFunction' must not return 'null'");
+
+        final Output output = this.outputFor(key);
+        try {
+            if (output.needsSeparator) {
+                output.writer.write(',');
+            }
+            this.componentAdapter.write(this.newJsonWriter(output.writer), element);
+            output.needsSeparator = true;
+        } catch (final IOException | RuntimeException ex) {
+            this.failure = ex;
+            throw ex;
+        }
+    }
+
+
+    // ========================
+    // Closeable implementation
+    // ========================
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Implementation ends the json array of every partition written to, reopening in append mode
+     * those which are not currently open, and closes all outputs.  Should any partition fail, the
+     * remainder are still completed, and the first failure is thrown with any others {@linkplain
+     * Throwable#addSuppressed(Throwable) suppressed}.
+     * <p>
+     * If a previous write failed, the outputs are closed without being completed and an {@code
+     * IOException} is thrown.  Closing an already closed {@code PartitioningStreamWriter} has no
+     * effect.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+
+        if (this.failure != null) {
+            this.abandon();
+            return;
+        }
+
+        IOException failure = null;
+
+        for (final K key : this.started) {
+            try {
+                Output output = this.open.remove(key);
+                if (output == null) {
+                    output = new Output(this.outputs.open(key, true), true);
+                }
+                try {
+                    output.writer.write(']');
+                } finally {
+                    output.writer.close();
+                }
+            } catch (final IOException ioEx) {
+                if (failure == null) {
+                    failure = ioEx;
+                } else {
+                    failure.addSuppressed(ioEx);
+                }
+            }
+        }
+        this.started.clear();
+        this.open.clear();
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+
+    // ========
+    // Internal
+    // ========
+
+    /**
+     * Ensures that elements may be written.
+     *
+     * @throws IllegalStateException if this {@link PartitioningStreamWriter} is {@link #closed},
+     *                               or a previous write {@link #failure failed}
+     */
+    private void ensureWritable() {
+        if (this.closed) {
+            throw new IllegalStateException("'PartitioningStreamWriter' has been closed");
+        }
+        if (this.failure != null) {
+            throw new IllegalStateException(
+                    "A previous write failed; partition outputs are incomplete", this.failure);
+        }
+    }
+
+    /**
+     * Closes all open outputs without completing them, following a {@link #failure failed}
+     * write.
+     *
+     * @throws IOException always; reporting that the outputs are incomplete
+     */
+    private void abandon() throws IOException {
+        final IOException incomplete = new IOException(
+                "A previous write failed; partition outputs are incomplete", this.failure);
+        for (final Output output : this.open.values()) {
+            try {
+                output.writer.close();
+            } catch (final IOException ioEx) {
+                incomplete.addSuppressed(ioEx);
+            }
+        }
+        this.started.clear();
+        this.open.clear();
+
+        throw incomplete;
+    }
+
+    /**
+     * Returns the open {@link Output} for the partition with the given key, opening it (and
+     * closing the least recently used output if necessary) if it is not already open.
+     *
+     * @param key the key of the partition
+     *
+     * @return the open {@code Output} for the partition
+     *
+     * @throws IOException if the output could not be opened, or another could not be closed
+     */
+    private Output outputFor(final K key) throws IOException {
+        final Output existing = this.open.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (this.open.size() >= this.maxOpenOutputs) {
+            final Iterator<Output> eldest = this.open.values().iterator();
+            final Output evicted = eldest.next();
+            eldest.remove();
+            try {
+                evicted.writer.close();
+            } catch (final IOException ioEx) {
+                // The evicted output may not have been fully written.
+                this.failure = ioEx;
+                throw ioEx;
+            }
+        }
+
+        final boolean append = this.started.contains(key);
+        final Output output = new Output(this.outputs.open(key, append), append);
+        if (!append) {
+            try {
+                output.writer.write('[');
+            } catch (final IOException ioEx) {
+                try {
+                    output.writer.close();
+                } catch (final IOException closeEx) {
+                    ioEx.addSuppressed(closeEx);
+                }
+                throw ioEx;
+            }
+            this.started.add(key);
+        }
+        this.open.put(key, output);
+        return output;
+    }
+
+    /**
+     * Generates a new {@link JsonWriter}, with the configured {@link #serializeNulls} and {@link
+     * #htmlSafe} settings, for writing a single element to the provided {@link Writer}.
+     * <p>
+     * A new {@code JsonWriter} is used per element as a strict {@code JsonWriter} permits only
+     * one top-level value; it writes straight through to the {@code out}, so is not closed.
+     *
+     * @param out the {@code Writer} to write to
+     *
+     * @return the {@code JsonWriter}
+     */
+    private JsonWriter newJsonWriter(final Writer out) {
+        final JsonWriter jsonWriter = new JsonWriter(out);
+        jsonWriter.setSerializeNulls(this.serializeNulls);
+        jsonWriter.setHtmlSafe(this.htmlSafe);
+        return jsonWriter;
+    }
+
+    /**
+     * Factory for the {@link Writer Writers} which partitions are written to.
+     *
+     * @param <K> the type of the keys identifying partitions
+     */
+    @FunctionalInterface
+    public interface OutputFactory<K> {
+
+        /**
+         * Opens the output of the partition with the given key.
+         *
+         * @param key    the key of the partition
+         * @param append if {@code true}, the returned {@link Writer} must <strong>append</strong>
+         *               to what was previously written for this {@code key}; otherwise any
+         *               existing content should be replaced
+         *
+         * @return a {@code Writer} for the partition
+         *
+         * @throws IOException if the output could not be opened
+         */
+        Writer open(K key, boolean append) throws IOException;
+    }
+
+    /**
+     * An open output of a single partition.
+     */
+    private static final class Output {
+
+        /**
+         * The {@link Writer} provided by the {@link OutputFactory}.
+         */
+        private final Writer writer;
+        /**
+         * Whether an element has been written before the next one, so needs separating from it.
+         */
+        private boolean needsSeparator;
+
+        /**
+         * Constructor; generates a new {@link Output} writing to the provided {@link Writer}.
+         *
+         * @param writer         the {@code Writer} to write to
+         * @param needsSeparator whether elements have already been written to the partition
+         */
+        private Output(final Writer writer, final boolean needsSeparator) {
+            this.writer = Objects.requireNonNull(writer, "'outputs' must not return 'null'");
+            this.needsSeparator = needsSeparator;
+        }
+    }
+}
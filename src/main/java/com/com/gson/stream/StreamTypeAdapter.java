@@ -5,11 +5,16 @@ import com.google.gson.Gson;
 import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -99,9 +104,91 @@ public final class StreamTypeAdapter<T> extends TypeAdapter<Stream<T>> {
      * <p>
      * Implementation generates a {@link Stream} where the elements are lazily loaded by reading
      * from the provided {@link JsonReader} when they are requested.
+     * <p>
+     * Where the elements are themselves {@code Streams}, each is also lazily loaded; advancing the
+     * returned {@code Stream} skips whatever remains unconsumed of the previous element.
      */
     @Override
     public @Nullable Stream<T> read(final JsonReader in) throws IOException {
+        final JsonReaderSkippableIterator<T> iterator = this.readIterator(in);
+        return iterator == null ? null : new SkippableIteratorStream<>(iterator);
+    }
+
+    /**
+     * Generates a {@link Stream} which lazily merges the json arrays read from each of the
+     * provided {@link JsonReader JsonReaders}, each of which must <strong>already be
+     * sorted</strong> according to the provided {@link Comparator}.
+     * <p>
+     * Only one element per {@code JsonReader} is held in memory at any time.  Ownership of the
+     * {@code readers} passes to the returned {@code Stream}; they are all {@link JsonReader#close()
+     * closed} when it is {@link Stream#close() closed}.  A {@code reader} containing the json
+     * {@code null} is treated as an empty array, and is closed immediately.
+     *
+     * @param comparator the {@code Comparator} which the elements of each reader are sorted by
+     * @param readers    the {@code JsonReaders} to merge the elements of
+     *
+     * @return a {@code Stream} over the merged elements of all of the {@code readers}
+     *
+     * @throws IOException          if any of the {@code readers} could not be read from; in which
+     *                              case all of the {@code readers} are closed
+     * @throws NullPointerException if the provided {@code comparator}, {@code readers}, or any
+     *                              element of {@code readers} is {@code null}
+     */
+    public SkippableIteratorStream<T> readMerged(final Comparator<? super T> comparator,
+                                                 final Collection<? extends JsonReader> readers)
+            throws IOException {
+        Objects.requireNonNull(comparator, "'comparator' must not be 'null'");
+        Objects.requireNonNull(readers, "'readers' must not be 'null'");
+
+        final List<JsonReaderSkippableIterator<T>> sources = new ArrayList<>(readers.size());
+        try {
+            for (final JsonReader in : readers) {
+                Objects.requireNonNull(in, "'readers' must not contain 'null'");
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    in.close();
+                    continue;
+                }
+                in.beginArray();
+                sources.add(new JsonReaderSkippableIterator<>(this.componentAdapter, in, true));
+            }
+        } catch (final IOException | RuntimeException ex) {
+            for (final JsonReader in : readers) {
+                try {
+                    if (in != null) {
+                        in.close();
+                    }
+                } catch (final IOException closeEx) {
+                    ex.addSuppressed(closeEx);
+                }
+            }
+            throw ex;
+        }
+
+        return SkippableIteratorStream.merge(comparator, sources);
+    }
+
+
+    // ========
+    // Internal
+    // ========
+
+    /**
+     * Begins reading the json array at the current position of the provided {@link JsonReader},
+     * returning a {@link JsonReaderSkippableIterator} over its elements.
+     * <p>
+     * This is used both by {@link #read(JsonReader)} and by an enclosing {@code
+     * JsonReaderSkippableIterator} reading {@link Stream Streams} of {@code Streams}, which must
+     * be able to finish the returned iterator before it advances.
+     *
+     * @param in the {@code JsonReader} to read from
+     *
+     * @return a {@code JsonReaderSkippableIterator} over the elements of the array, or {@code
+     *         null} if the json element is {@code null}
+     *
+     * @throws IOException if the {@code in} could not be read from
+     */
+    @Nullable JsonReaderSkippableIterator<T> readIterator(final JsonReader in) throws IOException {
 
         try {
             // Use beginArray BEFORE giving to JsonReaderSkippableIterator to optimise for expected
@@ -115,14 +202,9 @@ public final class StreamTypeAdapter<T> extends TypeAdapter<Stream<T>> {
             return null;
         }
 
-        return new SkippableIteratorStream<>(new JsonReaderSkippableIterator<T>(this.componentAdapter, in));
+        return new JsonReaderSkippableIterator<>(this.componentAdapter, in);
     }
 
-
-    // ========
-    // Internal
-    // ========
-
     /**
      * Extension of {@link RuntimeException} which allows us to re-throw an {@link Exception}
      * without modification or risk on pollution when defining a lambda which does
@@ -0,0 +1,62 @@
+package com.com.collections;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Implementation of {@link SkippableIterator} over a {@link List} which counts the invocations of
+ * {@link #next()} and {@link #skip()}, so that tests can verify which elements were read.
+ *
+ * @param <T> {@inheritDoc}
+ */
+final class CountingSkippableIterator<T> implements SkippableIterator<T> {
+
+    /**
+     * The {@link Iterator} over the elements.
+     */
+    private final Iterator<T> elements;
+    /**
+     * The number of invocations of {@link #next()}.
+     */
+    int nextCount = 0;
+    /**
+     * The number of invocations of {@link #skip()}.
+     */
+    int skipCount = 0;
+    /**
+     * The number of invocations of {@link #close()}.
+     */
+    int closeCount = 0;
+
+    /**
+     * Constructor; generates a new {@link CountingSkippableIterator} over the provided elements.
+     *
+     * @param elements the elements to iterate over
+     */
+    CountingSkippableIterator(final List<T> elements) {
+        this.elements = elements.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.elements.hasNext();
+    }
+
+    @Override
+    public T next() {
+        this.nextCount++;
+        return this.elements.next();
+    }
+
+    @Override
+    public void skip() {
+        this.skipCount++;
+        this.elements.next();
+    }
+
+    @Override
+    public void close() {
+        this.closeCount++;
+        SkippableIterator.super.close();
+    }
+}
@@ -0,0 +1,172 @@
+package com.com.collections;
+
+import org.junit.Test;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MergingSkippableIteratorTest {
+
+    @Test
+    public void mergeOrdersElementsOfAllSources() {
+        final List<Integer> merged = merge(Arrays.asList(1, 4, 7),
+                                           Arrays.asList(2, 3, 9, 10),
+                                           Collections.singletonList(5))
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 7, 9, 10), merged);
+    }
+
+    @Test
+    public void mergeOrdersEqualElementsBySource() {
+        final List<Map.Entry<Integer, String>> first = Arrays.asList(entry(1, "a1"), entry(2, "a2"));
+        final List<Map.Entry<Integer, String>> second = Arrays.asList(entry(1, "b1"), entry(2, "b2"));
+        final List<Map.Entry<Integer, String>> third = Arrays.asList(entry(1, "c1"), entry(3, "c3"));
+
+        final List<String> merged = SkippableIteratorStream
+                .merge(Map.Entry.<Integer, String>comparingByKey(),
+                       Arrays.asList(new CountingSkippableIterator<>(third),
+                                     new CountingSkippableIterator<>(first),
+                                     new CountingSkippableIterator<>(second)))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("c1", "a1", "b1", "a2", "b2", "c3"), merged);
+    }
+
+    @Test
+    public void mergeOfNoSourcesIsEmpty() {
+        assertEquals(0, merge().count());
+    }
+
+    @Test
+    public void mergeIgnoresEmptySources() {
+        assertEquals(Arrays.asList(1, 2),
+                     merge(Collections.emptyList(), Arrays.asList(1, 2), Collections.emptyList())
+                             .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void mergeReadsNothingUntilRequested() {
+        final CountingSkippableIterator<Integer> source =
+                new CountingSkippableIterator<>(Arrays.asList(1, 2));
+
+        SkippableIteratorStream.merge(Comparator.<Integer>naturalOrder(), Collections.singletonList(source));
+
+        assertEquals(0, source.nextCount);
+    }
+
+    @Test
+    public void skipDiscardsSmallestElement() {
+        final MergingSkippableIterator<Integer> iterator = new MergingSkippableIterator<>(
+                Comparator.naturalOrder(),
+                Arrays.asList(new CountingSkippableIterator<>(Arrays.asList(1, 4)),
+                              new CountingSkippableIterator<>(Arrays.asList(2, 3))));
+
+        assertTrue(iterator.hasNext());
+        iterator.skip();
+        iterator.skip();
+        assertEquals(Integer.valueOf(3), iterator.next());
+        assertEquals(Integer.valueOf(4), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void skipWhenExhaustedThrows() {
+        new MergingSkippableIterator<Integer>(Comparator.naturalOrder(), Collections.emptyList()).skip();
+    }
+
+    @Test
+    public void streamSkipSkipsMergedElements() {
+        assertEquals(Arrays.asList(3, 4, 7),
+                     merge(Arrays.asList(1, 4, 7), Arrays.asList(2, 3)).skip(2).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void closeClosesEverySource() {
+        final CountingSkippableIterator<Integer> first =
+                new CountingSkippableIterator<>(Arrays.asList(1, 3));
+        final CountingSkippableIterator<Integer> second =
+                new CountingSkippableIterator<>(Arrays.asList(2, 4));
+
+        final Stream<Integer> stream = SkippableIteratorStream.merge(Comparator.<Integer>naturalOrder(),
+                                                                     Arrays.asList(first, second));
+        assertEquals(Collections.singletonList(1), stream.limit(1).collect(Collectors.toList()));
+        stream.close();
+
+        assertEquals(1, first.closeCount);
+        assertEquals(1, second.closeCount);
+    }
+
+    @Test
+    public void nextRetainsElementWhenReplacementCannotBeRead() {
+        final SkippableIterator<Integer> failingOnce = new SkippableIterator<Integer>() {
+
+            private final Iterator<Integer> elements = Arrays.asList(1, 3).iterator();
+            private int reads = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.elements.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                if (++this.reads == 2) {
+                    throw new IllegalStateException("Simulated read failure");
+                }
+                return this.elements.next();
+            }
+        };
+        final MergingSkippableIterator<Integer> iterator = new MergingSkippableIterator<>(
+                Comparator.naturalOrder(),
+                Arrays.asList(failingOnce, new CountingSkippableIterator<>(Collections.singletonList(2))));
+
+        try {
+            iterator.next();
+            fail("Expected an IllegalStateException");
+        } catch (final IllegalStateException expected) {
+            // The replacement for '1' could not be read; '1' should not have been lost.
+        }
+
+        assertEquals(Integer.valueOf(1), iterator.next());
+        assertEquals(Integer.valueOf(2), iterator.next());
+        assertEquals(Integer.valueOf(3), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void mergeRejectsNullSource() {
+        SkippableIteratorStream.merge(Comparator.<Integer>naturalOrder(), Collections.singletonList(null));
+    }
+
+
+    // ========
+    // Internal
+    // ========
+
+    @SafeVarargs
+    private static SkippableIteratorStream<Integer> merge(final List<Integer>... sources) {
+        return SkippableIteratorStream.merge(Comparator.naturalOrder(),
+                                             Arrays.stream(sources)
+                                                   .map(CountingSkippableIterator::new)
+                                                   .collect(Collectors.toList()));
+    }
+
+    private static Map.Entry<Integer, String> entry(final int key, final String value) {
+        return new SimpleImmutableEntry<>(key, value);
+    }
+}
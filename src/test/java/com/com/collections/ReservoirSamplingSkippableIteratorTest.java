@@ -0,0 +1,139 @@
+package com.com.collections;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.com.collections.SamplingSkippableIteratorTest.range;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ReservoirSamplingSkippableIteratorTest {
+
+    @Test
+    public void sampleReturnsKDistinctElements() {
+        final List<Integer> sample = sample(range(1_000), 50, 1L);
+
+        assertEquals(50, sample.size());
+        assertEquals(50, new HashSet<>(sample).size());
+        assertTrue(range(1_000).containsAll(sample));
+    }
+
+    @Test
+    public void sampleIsDeterministicForSeed() {
+        assertEquals(sample(range(10_000), 100, 99L), sample(range(10_000), 100, 99L));
+    }
+
+    @Test
+    public void sampleOfFewerThanKReturnsAll() {
+        final List<Integer> sample = sample(range(100), Integer.MAX_VALUE, 1L);
+
+        Collections.sort(sample);
+        assertEquals(range(100), sample);
+    }
+
+    @Test
+    public void sampleOfZeroIsEmptyAndReadsNothing() {
+        final CountingSkippableIterator<Integer> source = new CountingSkippableIterator<>(range(100));
+
+        assertEquals(0, new SkippableIteratorStream<>(source).sample(0, 1L).count());
+        assertEquals(0, source.nextCount);
+    }
+
+    @Test
+    public void sampleOfEmptyIsEmpty() {
+        assertEquals(Collections.emptyList(), sample(range(0), 10, 1L));
+    }
+
+    @Test
+    public void sampleSkipsElementsNotAdmitted() {
+        final CountingSkippableIterator<Integer> source = new CountingSkippableIterator<>(range(100_000));
+
+        assertEquals(10, new SkippableIteratorStream<>(source).sample(10, 5L).count());
+
+        assertEquals(100_000, source.nextCount + source.skipCount);
+        // Around k * (1 + ln(n / k)), so ~102, elements are expected to be admitted.
+        assertTrue("Read " + source.nextCount, source.nextCount < 1_000);
+    }
+
+    @Test
+    public void sampleIsUniform() {
+        final int size = 100;
+        final int k = 10;
+        final int trials = 10_000;
+        final int[] counts = new int[size];
+
+        for (int seed = 0; seed < trials; seed++) {
+            for (final int element : sample(range(size), k, seed)) {
+                counts[element]++;
+            }
+        }
+
+        // Each element is expected 1,000 times, with a standard deviation of ~30.
+        for (int element = 0; element < size; element++) {
+            assertTrue("Element " + element + " sampled " + counts[element] + " times",
+                       Math.abs(counts[element] - 1_000) < 150);
+        }
+    }
+
+    @Test
+    public void failedSamplingIsNotReportedAsComplete() {
+        final CountingSkippableIterator<Integer> elements = new CountingSkippableIterator<>(range(100));
+        final SkippableIterator<Integer> failing = new SkippableIterator<Integer>() {
+
+            @Override
+            public boolean hasNext() {
+                if (elements.nextCount + elements.skipCount == 50) {
+                    throw new IllegalStateException("Simulated read failure");
+                }
+                return elements.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                return elements.next();
+            }
+
+            @Override
+            public void skip() {
+                elements.skip();
+            }
+        };
+        final ReservoirSamplingSkippableIterator<Integer> iterator =
+                new ReservoirSamplingSkippableIterator<>(failing, 10, 1L);
+
+        try {
+            iterator.hasNext();
+            fail("Expected an IllegalStateException");
+        } catch (final IllegalStateException expected) {
+            // The delegate failed part way through sampling.
+        }
+
+        try {
+            iterator.hasNext();
+            fail("Expected the partial sample not to be returned");
+        } catch (final IllegalStateException expected) {
+            // Sampling is attempted again, and fails again, rather than being treated as done.
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sampleRejectsNegative() {
+        new SkippableIteratorStream<>(new CountingSkippableIterator<>(range(5))).sample(-1, 1L);
+    }
+
+
+    // ========
+    // Internal
+    // ========
+
+    private static List<Integer> sample(final List<Integer> elements, final int k, final long seed) {
+        return new SkippableIteratorStream<>(new CountingSkippableIterator<>(elements))
+                .sample(k, seed)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,133 @@
+package com.com.collections;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SamplingSkippableIteratorTest {
+
+    @Test
+    public void sampleEverySelectsFirstAndThenEveryNth() {
+        assertEquals(Arrays.asList(0, 3, 6, 9), sampleEvery(range(10), 3));
+    }
+
+    @Test
+    public void sampleEveryOneSelectsAll() {
+        assertEquals(range(5), sampleEvery(range(5), 1));
+    }
+
+    @Test
+    public void sampleEveryLargerThanSizeSelectsOnlyFirst() {
+        assertEquals(Collections.singletonList(0), sampleEvery(range(5), 100));
+    }
+
+    @Test
+    public void sampleEveryOfEmptyIsEmpty() {
+        assertEquals(Collections.emptyList(), sampleEvery(range(0), 3));
+    }
+
+    @Test
+    public void sampleEverySkipsUnselectedElements() {
+        final CountingSkippableIterator<Integer> source = new CountingSkippableIterator<>(range(10));
+
+        new SkippableIteratorStream<>(source).sampleEvery(3).collect(Collectors.toList());
+
+        assertEquals(4, source.nextCount);
+        assertEquals(6, source.skipCount);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sampleEveryRejectsNonPositive() {
+        new SkippableIteratorStream<>(new CountingSkippableIterator<>(range(5))).sampleEvery(0);
+    }
+
+    @Test
+    public void sampleBernoulliIsDeterministicForSeed() {
+        final List<Integer> first = sampleBernoulli(range(10_000), 0.05, 42L);
+        final List<Integer> second = sampleBernoulli(range(10_000), 0.05, 42L);
+
+        assertEquals(first, second);
+        assertTrue(!first.isEmpty());
+    }
+
+    @Test
+    public void sampleBernoulliSelectsInOrderAtExpectedRate() {
+        final List<Integer> sample = sampleBernoulli(range(100_000), 0.1, 7L);
+
+        // Expected 10,000 with a standard deviation of ~95.
+        assertTrue("Sampled " + sample.size(), Math.abs(sample.size() - 10_000) < 500);
+        assertEquals(sample.stream().sorted().distinct().collect(Collectors.toList()), sample);
+    }
+
+    @Test
+    public void sampleBernoulliSkipsUnselectedElements() {
+        final CountingSkippableIterator<Integer> source = new CountingSkippableIterator<>(range(10_000));
+
+        final long sampled = new SkippableIteratorStream<>(source).sampleBernoulli(0.01, 3L).count();
+
+        assertEquals(sampled, source.nextCount);
+        assertEquals(10_000 - sampled, source.skipCount);
+    }
+
+    @Test
+    public void sampleBernoulliOfZeroSelectsNothing() {
+        final CountingSkippableIterator<Integer> source = new CountingSkippableIterator<>(range(100));
+
+        assertEquals(0, new SkippableIteratorStream<>(source).sampleBernoulli(0.0, 1L).count());
+        assertEquals(0, source.nextCount);
+        assertEquals(100, source.skipCount);
+    }
+
+    @Test
+    public void sampleBernoulliOfOneSelectsAll() {
+        final CountingSkippableIterator<Integer> source = new CountingSkippableIterator<>(range(100));
+
+        assertEquals(range(100), new SkippableIteratorStream<>(source).sampleBernoulli(1.0, 1L)
+                                                                     .collect(Collectors.toList()));
+        assertEquals(0, source.skipCount);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sampleBernoulliRejectsNegativeProbability() {
+        new SkippableIteratorStream<>(new CountingSkippableIterator<>(range(5))).sampleBernoulli(-0.1, 1L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sampleBernoulliRejectsProbabilityAboveOne() {
+        new SkippableIteratorStream<>(new CountingSkippableIterator<>(range(5))).sampleBernoulli(1.1, 1L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sampleBernoulliRejectsNaN() {
+        new SkippableIteratorStream<>(new CountingSkippableIterator<>(range(5))).sampleBernoulli(Double.NaN, 1L);
+    }
+
+
+    // ========
+    // Internal
+    // ========
+
+    static List<Integer> range(final int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    private static List<Integer> sampleEvery(final List<Integer> elements, final long n) {
+        return new SkippableIteratorStream<>(new CountingSkippableIterator<>(elements))
+                .sampleEvery(n)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Integer> sampleBernoulli(final List<Integer> elements, final double p,
+                                                 final long seed) {
+        return new SkippableIteratorStream<>(new CountingSkippableIterator<>(elements))
+                .sampleBernoulli(p, seed)
+                .collect(Collectors.toList());
+    }
+}
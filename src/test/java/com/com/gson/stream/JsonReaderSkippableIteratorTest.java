@@ -0,0 +1,164 @@
+package com.com.gson.stream;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class JsonReaderSkippableIteratorTest {
+
+    private final Gson gson = new GsonBuilder().registerTypeAdapterFactory(new StreamTypeAdapterFactory())
+                                               .create();
+
+    @Test
+    public void partiallyConsumedInnerStreamsAreSkipped() throws IOException {
+        final JsonReader reader = reader("{\"a\":[[1,2,3],[4,5],[6]],\"b\":7}");
+        reader.beginObject();
+        reader.nextName();
+
+        final Stream<Stream<Integer>> outer = this.read(reader, new TypeToken<Stream<Stream<Integer>>>() {});
+
+        assertEquals(Arrays.asList(1, 4, 6),
+                     outer.map(inner -> inner.findFirst().get()).collect(Collectors.toList()));
+        assertEquals("b", reader.nextName());
+        assertEquals(7, reader.nextInt());
+    }
+
+    @Test
+    public void innerStreamYieldsNothingOnceOuterHasAdvanced() throws IOException {
+        final Iterator<Stream<Integer>> outer =
+                this.read(reader("[[1,2],[3,4]]"), new TypeToken<Stream<Stream<Integer>>>() {}).iterator();
+
+        final Stream<Integer> first = outer.next();
+        final Stream<Integer> second = outer.next();
+
+        assertEquals(Collections.emptyList(), first.collect(Collectors.toList()));
+        assertEquals(Arrays.asList(3, 4), second.collect(Collectors.toList()));
+        assertFalse(outer.hasNext());
+    }
+
+    @Test
+    public void collectingOuterStreamLeavesInnerStreamsEmpty() throws IOException {
+        final List<Stream<Integer>> inners =
+                this.read(reader("[[1,2],[3]]"), new TypeToken<Stream<Stream<Integer>>>() {})
+                    .collect(Collectors.toList());
+
+        assertEquals(2, inners.size());
+        for (final Stream<Integer> inner : inners) {
+            assertEquals(0, inner.count());
+        }
+    }
+
+    @Test
+    public void innerNullIsReadAsNull() throws IOException {
+        final Iterator<Stream<Integer>> outer =
+                this.read(reader("[[1],null,[2,3]]"), new TypeToken<Stream<Stream<Integer>>>() {}).iterator();
+
+        assertEquals(Collections.singletonList(1), outer.next().collect(Collectors.toList()));
+        assertNull(outer.next());
+        assertEquals(Arrays.asList(2, 3), outer.next().collect(Collectors.toList()));
+        assertFalse(outer.hasNext());
+    }
+
+    @Test
+    public void skippedOuterElementsAreNotDecoded() throws IOException {
+        final CountingAdapter counting = new CountingAdapter();
+        final StreamTypeAdapter<Stream<Integer>> adapter =
+                new StreamTypeAdapter<>(new StreamTypeAdapter<>(counting));
+
+        final List<List<Integer>> read = adapter.read(reader("[[1,2],[3,4,5],[6]]"))
+                                                .skip(2)
+                                                .map(inner -> inner.collect(Collectors.toList()))
+                                                .collect(Collectors.toList());
+
+        assertEquals(Collections.singletonList(Collections.singletonList(6)), read);
+        assertEquals(1, counting.reads);
+    }
+
+    @Test
+    public void unconsumedRemainderOfInnerStreamIsNotDecoded() throws IOException {
+        final CountingAdapter counting = new CountingAdapter();
+        final StreamTypeAdapter<Stream<Integer>> adapter =
+                new StreamTypeAdapter<>(new StreamTypeAdapter<>(counting));
+
+        final List<Integer> firsts = adapter.read(reader("[[1,2,3],[4,5,6]]"))
+                                            .map(inner -> inner.findFirst().get())
+                                            .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(1, 4), firsts);
+        assertEquals(2, counting.reads);
+    }
+
+    @Test
+    public void deeplyNestedStreamsAreSkipped() throws IOException {
+        final JsonReader reader = reader("[[[[1,2],[3]],[[4]]],[[[5,6]]],[[[7]],[[8]]]]");
+
+        final List<Integer> firsts =
+                this.read(reader, new TypeToken<Stream<Stream<Stream<Stream<Integer>>>>>() {})
+                    .map(depth2 -> depth2.findFirst().get().findFirst().get().findFirst().get())
+                    .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(1, 5, 7), firsts);
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    public void deeplyNestedOuterSkipSkipsWholeElement() throws IOException {
+        final List<Integer> read =
+                this.read(reader("[[[1,2],[3]],[[4]],[[5,6]]]"), new TypeToken<Stream<Stream<Stream<Integer>>>>() {})
+                    .skip(1)
+                    .map(depth1 -> depth1.findFirst().get().findFirst().get())
+                    .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(4, 5), read);
+    }
+
+
+    // ========
+    // Internal
+    // ========
+
+    private <T> T read(final JsonReader reader, final TypeToken<T> type) throws IOException {
+        return this.gson.getAdapter(type).read(reader);
+    }
+
+    private static JsonReader reader(final String json) {
+        return new JsonReader(new StringReader(json));
+    }
+
+    /**
+     * {@link TypeAdapter} for {@link Integer Integers} which counts how many it has read.
+     */
+    private static final class CountingAdapter extends TypeAdapter<Integer> {
+
+        private int reads = 0;
+
+        @Override
+        public void write(final JsonWriter out, final Integer value) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        public Integer read(final JsonReader in) throws IOException {
+            this.reads++;
+            return in.nextInt();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.com.gson.stream;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+public class PartitioningStreamWriterTest {
+
+    private final InMemoryOutputs outputs = new InMemoryOutputs();
+
+    @Test
+    public void interleavedKeysAreWrittenInInputOrderWithOneOpenOutput() throws IOException {
+        try (PartitioningStreamWriter<Integer, String> writer = this.integerWriter(1)) {
+            writer.writeAll(IntStream.rangeClosed(1, 10).boxed());
+        }
+
+        assertEquals("[3,6,9]", this.outputs.contents("p0"));
+        assertEquals("[1,4,7,10]", this.outputs.contents("p1"));
+        assertEquals("[2,5,8]", this.outputs.contents("p2"));
+        for (final String key : Arrays.asList("p0", "p1", "p2")) {
+            assertEquals(new Gson().fromJson(this.outputs.contents(key), JsonElement.class).toString(),
+                         this.outputs.contents(key));
+        }
+        assertEquals(0, this.outputs.openWriters);
+    }
+
+    @Test
+    public void evictedOutputsAreReopenedInAppendMode() throws IOException {
+        try (PartitioningStreamWriter<Integer, String> writer = this.integerWriter(2)) {
+            writer.writeAll(Stream.of(1, 2, 3, 4));
+        }
+
+        // p1 and p2 are opened; p0 evicts p1, which is then reopened (evicting p2) to append '4'.
+        assertEquals(Arrays.asList("p1:truncate", "p2:truncate", "p0:truncate", "p1:append",
+                                   "p2:append"),
+                     this.outputs.opens);
+        assertEquals("[1,4]", this.outputs.contents("p1"));
+    }
+
+    @Test
+    public void failedOpeningBracketClosesWriterAndDoesNotStartPartition() throws IOException {
+        this.outputs.failNextWrite = true;
+
+        try (PartitioningStreamWriter<Integer, String> writer = this.integerWriter(2)) {
+            try {
+                writer.write(1);
+                fail("Expected an IOException");
+            } catch (final IOException expected) {
+                assertEquals(0, this.outputs.openWriters);
+            }
+
+            writer.write(4);
+        }
+
+        // The retry must truncate, as nothing was validly written by the first attempt.
+        assertEquals(Arrays.asList("p1:truncate", "p1:truncate"), this.outputs.opens);
+        assertEquals("[4]", this.outputs.contents("p1"));
+    }
+
+    @Test
+    public void gsonSettingsAreHonoured() throws IOException {
+        final Map<String, String> element = new LinkedHashMap<>();
+        element.put("a", null);
+        element.put("b", "<x>");
+
+        this.writeMap(new Gson(), element);
+        assertEquals("[{\"b\":\"\\u003cx\\u003e\"}]", this.outputs.contents("only"));
+
+        this.writeMap(new GsonBuilder().serializeNulls().disableHtmlEscaping().create(), element);
+        assertEquals("[{\"a\":null,\"b\":\"<x>\"}]", this.outputs.contents("only"));
+    }
+
+    @Test
+    public void nonFiniteNumbersAreRejected() throws IOException {
+        final PartitioningStreamWriter<JsonElement, String> writer = new PartitioningStreamWriter<>(
+                new Gson(), TypeToken.get(JsonElement.class), element -> "only", this.outputs, 1);
+
+        try {
+            writer.write(new JsonPrimitive(Double.NaN));
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException expected) {
+            // Non-finite numbers are not valid json.
+        }
+    }
+
+    @Test
+    public void failedElementPreventsFurtherWritesAndFailsClose() throws IOException {
+        final TypeAdapter<Integer> failingOnTwo = new TypeAdapter<Integer>() {
+
+            @Override
+            public void write(final JsonWriter out, final Integer value) throws IOException {
+                out.beginObject();
+                if (value == 2) {
+                    throw new IOException("Simulated write failure");
+                }
+                out.name("v").value(value);
+                out.endObject();
+            }
+
+            @Override
+            public Integer read(final JsonReader in) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        final PartitioningStreamWriter<Integer, String> writer = new PartitioningStreamWriter<>(
+                failingOnTwo, element -> "only", this.outputs, 1, false, true);
+
+        writer.write(1);
+        try {
+            writer.write(2);
+            fail("Expected an IOException");
+        } catch (final IOException expected) {
+            // The output now holds a partial element.
+        }
+
+        try {
+            writer.write(3);
+            fail("Expected an IllegalStateException");
+        } catch (final IllegalStateException expected) {
+            // No further writes are permitted.
+        }
+        try {
+            writer.close();
+            fail("Expected an IOException");
+        } catch (final IOException expected) {
+            // The output cannot be completed as valid json.
+        }
+        assertEquals(0, this.outputs.openWriters);
+        assertFalse(this.outputs.contents("only").endsWith("]"));
+    }
+
+    @Test
+    public void writeAfterCloseIsRejected() throws IOException {
+        final PartitioningStreamWriter<Integer, String> writer = this.integerWriter(1);
+        writer.write(1);
+        writer.write(4);
+        writer.close();
+
+        try {
+            writer.write(7);
+            fail("Expected an IllegalStateException");
+        } catch (final IllegalStateException expected) {
+            // Writing after closing would otherwise truncate the partition.
+        }
+        try {
+            writer.writeAll(Stream.empty());
+            fail("Expected an IllegalStateException");
+        } catch (final IllegalStateException expected) {
+            // As above.
+        }
+        writer.close();
+
+        assertEquals("[1,4]", this.outputs.contents("p1"));
+        assertEquals(1, this.outputs.opens.size());
+    }
+
+
+    // ========
+    // Internal
+    // ========
+
+    private PartitioningStreamWriter<Integer, String> integerWriter(final int maxOpenOutputs) {
+        return new PartitioningStreamWriter<>(new Gson(), TypeToken.get(Integer.class),
+                                              element -> "p" + element % 3, this.outputs,
+                                              maxOpenOutputs);
+    }
+
+    private void writeMap(final Gson gson, final Map<String, String> element) throws IOException {
+        try (PartitioningStreamWriter<Map<String, String>, String> writer =
+                     new PartitioningStreamWriter<>(gson, new TypeToken<Map<String, String>>() {},
+                                                    map -> "only", this.outputs, 1)) {
+            writer.write(element);
+        }
+    }
+
+    /**
+     * Implementation of {@link PartitioningStreamWriter.OutputFactory} which writes to memory, and
+     * records how outputs are opened.
+     */
+    private static final class InMemoryOutputs implements PartitioningStreamWriter.OutputFactory<String> {
+
+        private final Map<String, StringBuilder> files = new HashMap<>();
+        private final List<String> opens = new ArrayList<>();
+        private int openWriters = 0;
+        private boolean failNextWrite = false;
+
+        @Override
+        public Writer open(final String key, final boolean append) {
+            this.opens.add(key + (append ? ":append" : ":truncate"));
+            if (!append) {
+                this.files.put(key, new StringBuilder());
+            }
+            final StringBuilder file = this.files.get(key);
+            final boolean fail = this.failNextWrite;
+            this.failNextWrite = false;
+            this.openWriters++;
+
+            return new Writer() {
+
+                private boolean closed = false;
+
+                @Override
+                public void write(final char[] cbuf, final int off, final int len) throws IOException {
+                    if (this.closed) {
+                        throw new IOException("Closed");
+                    }
+                    if (fail) {
+                        throw new IOException("Simulated write failure");
+                    }
+                    file.append(cbuf, off, len);
+                }
+
+                @Override
+                public void flush() {
+                }
+
+                @Override
+                public void close() {
+                    if (!this.closed) {
+                        this.closed = true;
+                        InMemoryOutputs.this.openWriters--;
+                    }
+                }
+            };
+        }
+
+        private String contents(final String key) {
+            return this.files.get(key).toString();
+        }
+    }
+}
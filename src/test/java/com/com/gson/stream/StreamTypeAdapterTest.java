@@ -0,0 +1,113 @@
+package com.com.gson.stream;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class StreamTypeAdapterTest {
+
+    private final StreamTypeAdapter<Integer> adapter =
+            new StreamTypeAdapter<>(new Gson().getAdapter(Integer.class));
+
+    @Test
+    public void readMergedOrdersElementsOfAllReaders() throws IOException {
+        final List<TrackingReader> sources = sources("[1,4,7]", "[2,3,9,10]", "[5]");
+
+        try (Stream<Integer> merged = this.readMerged(sources)) {
+            assertEquals(Arrays.asList(1, 2, 3, 4, 5, 7, 9, 10), merged.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void readMergedTreatsNullAndEmptyReadersAsEmpty() throws IOException {
+        final List<TrackingReader> sources = sources("null", "[2,1]", "[]");
+
+        try (Stream<Integer> merged = this.readMerged(sources)) {
+            // The null reader is closed immediately; the others only once the stream is closed.
+            assertTrue(sources.get(0).closed);
+            assertFalse(sources.get(2).closed);
+            assertEquals(Arrays.asList(2, 1), merged.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void readMergedSupportsStreamSkip() throws IOException {
+        try (Stream<Integer> merged = this.readMerged(sources("[1,4,7]", "[2,3]"))) {
+            assertEquals(Arrays.asList(3, 4, 7), merged.skip(2).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void closeClosesEveryReader() throws IOException {
+        final List<TrackingReader> sources = sources("[1,4,7]", "[2,3]", "[]", "null");
+
+        final Stream<Integer> merged = this.readMerged(sources);
+        assertEquals(Arrays.asList(1, 2), merged.limit(2).collect(Collectors.toList()));
+        merged.close();
+
+        for (final TrackingReader source : sources) {
+            assertTrue(source.closed);
+        }
+    }
+
+    @Test
+    public void readMergedClosesEveryReaderWhenOneIsNotAnArray() throws IOException {
+        final List<TrackingReader> sources = sources("[1,2]", "{}", "[3]");
+
+        try {
+            this.readMerged(sources);
+            fail("Expected an IllegalStateException");
+        } catch (final IllegalStateException expected) {
+            for (final TrackingReader source : sources) {
+                assertTrue(source.closed);
+            }
+        }
+    }
+
+
+    // ========
+    // Internal
+    // ========
+
+    private Stream<Integer> readMerged(final List<TrackingReader> sources) throws IOException {
+        return this.adapter.readMerged(Comparator.naturalOrder(),
+                                       sources.stream()
+                                              .map(JsonReader::new)
+                                              .collect(Collectors.toList()));
+    }
+
+    private static List<TrackingReader> sources(final String... jsons) {
+        return Arrays.stream(jsons).map(TrackingReader::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Extension of {@link StringReader} which records whether it has been closed.
+     */
+    private static final class TrackingReader extends StringReader {
+
+        private boolean closed = false;
+
+        private TrackingReader(final String json) {
+            super(json);
+        }
+
+        @Override
+        public void close() {
+            this.closed = true;
+            super.close();
+        }
+    }
+}